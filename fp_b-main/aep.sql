@@ -42,6 +42,9 @@ CREATE TABLE courses (
                          term VARCHAR(50) NOT NULL,
                          outline TEXT,
                          schedule VARCHAR(255),
+                         schedule_days TINYINT,
+                         schedule_start SMALLINT,
+                         schedule_end SMALLINT,
                          preferred_qualifications TEXT,
                          delivery_method ENUM('In-Person', 'Remote', 'Hybrid'),
                          compensation DECIMAL(10, 2),
@@ -50,6 +53,34 @@ CREATE TABLE courses (
                          FOREIGN KEY (institution_id) REFERENCES academic_institutions(institution_id)
 );
 
+-- Serves an institution's course list in code order, a page at a time
+CREATE INDEX idx_courses_institution_code ON courses (institution_id, code, course_id);
+
+-- The schedule parsed by the application: weekday bitmask (Monday = 1 ... Sunday = 64) and
+-- start/end in minutes after midnight, NULL when the text does not parse. Searches by days
+-- look up the few matching bitmasks, searches by time range over the start.
+-- To upgrade an existing database, add the columns and the two indexes below, and the
+-- application fills the columns in at startup:
+--   ALTER TABLE courses ADD COLUMN schedule_days TINYINT AFTER schedule,
+--       ADD COLUMN schedule_start SMALLINT AFTER schedule_days,
+--       ADD COLUMN schedule_end SMALLINT AFTER schedule_start
+CREATE INDEX idx_courses_schedule_days ON courses (schedule_days, schedule_start, schedule_end);
+CREATE INDEX idx_courses_schedule_start ON courses (schedule_start, schedule_end);
+
+-- Change tracking: the dashboards ask for the rows written since their last read (see
+-- ChangeTracking), by owner and updated_at here and in teaching_requests and notifications.
+-- Deleted courses leave a row in deleted_courses, and each deletion purges the rows older
+-- than changes.maxAgeHours, by deleted_at.
+CREATE INDEX idx_courses_institution_updated ON courses (institution_id, updated_at);
+
+CREATE TABLE deleted_courses (
+                                 course_id INT PRIMARY KEY,
+                                 institution_id INT NOT NULL,
+                                 deleted_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+CREATE INDEX idx_deleted_courses_institution ON deleted_courses (institution_id, deleted_at);
+CREATE INDEX idx_deleted_courses_deleted_at ON deleted_courses (deleted_at);
+
 -- Teaching Requests table
 CREATE TABLE teaching_requests (
                                    request_id INT PRIMARY KEY AUTO_INCREMENT,
@@ -57,10 +88,31 @@ CREATE TABLE teaching_requests (
                                    course_id INT,
                                    status ENUM('Pending', 'Accepted', 'Rejected') DEFAULT 'Pending',
                                    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                                   decided_at TIMESTAMP NULL,
+                                   updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
                                    FOREIGN KEY (professional_id) REFERENCES academic_professionals(professional_id),
                                    FOREIGN KEY (course_id) REFERENCES courses(course_id)
 );
 
+-- decided_at is set when the institution accepts or rejects the request, NULL while pending.
+-- To upgrade an existing database:
+--   ALTER TABLE teaching_requests ADD COLUMN decided_at TIMESTAMP NULL AFTER created_at
+
+-- A professional requests a course at most once. The key also serves a professional's
+-- requests, in place of the index MySQL would otherwise create for the foreign key.
+-- To upgrade an existing database, delete the repeated requests first, keeping the oldest:
+--   DELETE tr FROM teaching_requests tr JOIN teaching_requests kept
+--       ON kept.professional_id = tr.professional_id AND kept.course_id = tr.course_id
+--       AND kept.request_id < tr.request_id
+CREATE UNIQUE INDEX uq_teaching_requests_professional_course ON teaching_requests (professional_id, course_id);
+
+-- The requests written since a change token, for a professional or for each of an
+-- institution's courses. To upgrade an existing database, also:
+--   ALTER TABLE teaching_requests ADD COLUMN updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+--       ON UPDATE CURRENT_TIMESTAMP AFTER decided_at
+CREATE INDEX idx_teaching_requests_professional_updated ON teaching_requests (professional_id, updated_at);
+CREATE INDEX idx_teaching_requests_course_updated ON teaching_requests (course_id, updated_at);
+
 -- Notifications table
 CREATE TABLE notifications (
                                notification_id INT PRIMARY KEY AUTO_INCREMENT,
@@ -68,9 +120,15 @@ CREATE TABLE notifications (
                                message TEXT,
                                is_read BOOLEAN DEFAULT FALSE,
                                created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                               updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
                                FOREIGN KEY (user_id) REFERENCES users(user_id)
 );
 
+-- The notifications written or read since a change token. To upgrade an existing database:
+--   ALTER TABLE notifications ADD COLUMN updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+--       ON UPDATE CURRENT_TIMESTAMP AFTER created_at
+CREATE INDEX idx_notifications_user_updated ON notifications (user_id, updated_at);
+
 
 
 -- Insert institutions